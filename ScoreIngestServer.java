@@ -0,0 +1,196 @@
+package com.studentscores;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server that ingests newline-delimited score batches
+ * Each request runs on its own virtual thread and is parsed line by line
+ *
+ * Request body (POST /scores), one score per line, ExamScore between 0 and 100:
+ *   StudentID,StudentName,ExamScore,Subject
+ *
+ * Response body: "written=N rejected=M"
+ *   200 - every line was written
+ *   400 - some lines were malformed and skipped, the rest were written
+ *   500 - the log file could not be written, N is what was written before the failure
+ * If the request body cannot be read (e.g. the client disconnects) the exchange is closed without a response
+ */
+public class ScoreIngestServer {
+    public static final String INGEST_PATH = "/scores";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BATCH_SIZE = 1000;
+    private static final int SOCKET_BACKLOG = 256;
+    private static final int MIN_SCORE = 0;
+    private static final int MAX_SCORE = 100;
+
+    private final ScoreLogger scoreLogger;
+    private final HttpServer server;
+    private final ExecutorService executorService;
+
+    public ScoreIngestServer(ScoreLogger scoreLogger, int port) throws IOException {
+        this.scoreLogger = scoreLogger;
+        this.server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port), SOCKET_BACKLOG);
+        this.executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("ingest-", 0).factory());
+        server.createContext(INGEST_PATH, this::handleIngest);
+        server.setExecutor(executorService);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stop accepting requests and wait for in-flight requests to finish
+     */
+    public void stop() {
+        server.stop(1);
+        executorService.close();
+    }
+
+    /**
+     * Get the port the server is bound to (useful when created with port 0)
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleIngest(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!INGEST_PATH.equals(exchange.getRequestURI().getPath())) {
+                sendResponse(exchange, 404, "not found");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendResponse(exchange, 405, "method not allowed");
+                return;
+            }
+
+            int written = 0;
+            int rejected = 0;
+            boolean writeFailed = false;
+            List<Student> batch = new ArrayList<>(BATCH_SIZE);
+            try (InputStream body = exchange.getRequestBody();
+                 BufferedReader reader = new BufferedReader(
+                         new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Student student = parseLine(line);
+                    if (student == null) {
+                        rejected++;
+                        continue;
+                    }
+                    batch.add(student);
+                    if (batch.size() == BATCH_SIZE) {
+                        if (!writeBatch(batch)) {
+                            writeFailed = true;
+                            break;
+                        }
+                        written += batch.size();
+                        batch.clear();
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println(Thread.currentThread().getName()
+                        + " - Error reading request body: " + e.getMessage());
+                return;
+            }
+
+            if (!writeFailed) {
+                if (writeBatch(batch)) {
+                    written += batch.size();
+                } else {
+                    writeFailed = true;
+                }
+            }
+            if (writeFailed) {
+                sendResponse(exchange, 500, status(written, rejected));
+                return;
+            }
+            sendResponse(exchange, rejected == 0 ? 200 : 400, status(written, rejected));
+        }
+    }
+
+    /**
+     * Hand a batch to the logger, returning false if the log file could not be written
+     */
+    private boolean writeBatch(List<Student> batch) {
+        try {
+            scoreLogger.logScores(batch);
+            return true;
+        } catch (IOException e) {
+            System.err.println(Thread.currentThread().getName()
+                    + " - Error writing scores: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Parse a "StudentID,StudentName,ExamScore,Subject" line, or return null if malformed
+     */
+    static Student parseLine(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 4) {
+            return null;
+        }
+        String studentId = fields[0].trim();
+        String studentName = fields[1].trim();
+        String subject = fields[3].trim();
+        if (studentId.isEmpty() || studentName.isEmpty() || subject.isEmpty()) {
+            return null;
+        }
+        try {
+            int examScore = Integer.parseInt(fields[2].trim());
+            if (examScore < MIN_SCORE || examScore > MAX_SCORE) {
+                return null;
+            }
+            return new Student(studentId, studentName, examScore, subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String status(int written, int rejected) {
+        return "written=" + written + " rejected=" + rejected + "\n";
+    }
+
+    private static void sendResponse(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String logFilePath = args.length > 1 ? args[1] : "data/student_scores.csv";
+
+        ScoreIngestServer ingestServer = new ScoreIngestServer(new ScoreLogger(logFilePath), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(ingestServer::stop));
+        ingestServer.start();
+        System.out.println("Score ingest server listening on http://localhost:"
+                + ingestServer.getPort() + INGEST_PATH);
+        System.out.println("Logging scores to: " + logFilePath);
+    }
+}
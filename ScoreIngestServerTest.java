@@ -0,0 +1,173 @@
+package com.studentscores;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit test cases for ScoreIngestServer
+ * Tests batch parsing, response status and concurrent load on localhost
+ */
+public class ScoreIngestServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ScoreLogger scoreLogger;
+    private ScoreIngestServer ingestServer;
+    private HttpClient httpClient;
+    private URI ingestUri;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        scoreLogger = new ScoreLogger(tempDir.resolve("ingest_test_scores.csv").toString());
+        ingestServer = new ScoreIngestServer(scoreLogger, 0);
+        ingestServer.start();
+        httpClient = HttpClient.newHttpClient();
+        ingestUri = URI.create("http://localhost:" + ingestServer.getPort() + ScoreIngestServer.INGEST_PATH);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ingestServer.stop();
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(ingestUri)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String buildBatch(int firstStudent, int count) {
+        StringBuilder body = new StringBuilder(count * 40);
+        for (int i = firstStudent; i < firstStudent + count; i++) {
+            body.append("STU").append(i).append(",Student ").append(i)
+                .append(',').append(50 + (i % 51)).append(",Mathematics\n");
+        }
+        return body.toString();
+    }
+
+    @Test
+    public void testIngestSingleBatch() throws IOException, InterruptedException {
+        HttpResponse<String> response = post(buildBatch(0, 3));
+
+        assertEquals(200, response.statusCode(), "Valid batch should be accepted");
+        assertEquals("written=3 rejected=0", response.body().trim());
+        assertEquals(3, scoreLogger.getEntryCount(), "All scores in the batch should be logged");
+    }
+
+    @Test
+    public void testIngestLargerThanOneWriteBatch() throws IOException, InterruptedException {
+        HttpResponse<String> response = post(buildBatch(0, 2500));
+
+        assertEquals(200, response.statusCode(), "Valid batch should be accepted");
+        assertEquals(2500, scoreLogger.getEntryCount(), "Scores spanning several write batches should be logged");
+    }
+
+    @Test
+    public void testMalformedLinesAreRejected() throws IOException, InterruptedException {
+        String body = "STU001,Alice Smith,92,Physics\n"
+                + "STU002,Bob Johnson,not-a-score,Chemistry\n"
+                + "\n"
+                + "STU003,Missing Subject,88\n"
+                + "STU004,Carol Williams,75,Biology\n"
+                + "STU005,Negative Score,-5,History\n"
+                + "STU006,Too High,101,English\n";
+
+        HttpResponse<String> response = post(body);
+
+        assertEquals(400, response.statusCode(), "Batch with malformed lines should report 400");
+        assertEquals("written=2 rejected=4", response.body().trim());
+        assertEquals(2, scoreLogger.getEntryCount(), "Valid lines should still be logged");
+    }
+
+    @Test
+    public void testNonPostIsRejected() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(ingestUri).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode(), "GET should not be allowed");
+        assertEquals(0, scoreLogger.getEntryCount(), "Nothing should be logged");
+    }
+
+    @Test
+    public void testUnknownPathIsRejected() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(ingestUri + "XYZ"))
+                .POST(HttpRequest.BodyPublishers.ofString("STU001,Alice Smith,92,Physics\n"))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(404, response.statusCode(), "Only the exact ingest path should be served");
+        assertEquals(0, scoreLogger.getEntryCount(), "Nothing should be logged");
+    }
+
+    @Test
+    public void testLoggedLineFormat() throws IOException, InterruptedException {
+        post("STU999,Test User,100,History\n");
+
+        List<String> lines = Files.readAllLines(Path.of(scoreLogger.getFilePath()));
+        assertEquals(2, lines.size(), "File should have header and one entry");
+        assertTrue(lines.get(1).startsWith("STU999,Test User,100,History,"),
+            "Logged line should keep the submitted fields");
+        assertTrue(lines.get(1).contains(",ingest-"), "Logged line should name the ingest thread");
+    }
+
+    @Test
+    public void testLocalLoad(TestReporter testReporter) throws Exception {
+        final int numClients = 8;
+        final int batchesPerClient = 25;
+        final int recordsPerBatch = 1000;
+        final int totalRecords = numClients * batchesPerClient * recordsPerBatch;
+        ExecutorService clients = Executors.newFixedThreadPool(numClients);
+
+        long startTime = System.nanoTime();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int c = 0; c < numClients; c++) {
+            final int clientNum = c;
+            results.add(clients.submit(() -> {
+                int accepted = 0;
+                for (int b = 0; b < batchesPerClient; b++) {
+                    int firstStudent = (clientNum * batchesPerClient + b) * recordsPerBatch;
+                    HttpResponse<String> response = post(buildBatch(firstStudent, recordsPerBatch));
+                    if (response.statusCode() == 200) {
+                        accepted += recordsPerBatch;
+                    }
+                }
+                return accepted;
+            }));
+        }
+
+        int accepted = 0;
+        for (Future<Integer> result : results) {
+            accepted += result.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        clients.shutdown();
+
+        // Throughput is reported, not asserted, so slow or shared machines don't fail the suite
+        long recordsPerSecond = Math.round(totalRecords / (elapsedNanos / 1_000_000_000.0));
+        testReporter.publishEntry("recordsPerSecond", String.valueOf(recordsPerSecond));
+
+        assertEquals(totalRecords, accepted, "Every batch should be accepted");
+        assertEquals(totalRecords, scoreLogger.getEntryCount(), "Every record should be logged");
+    }
+}
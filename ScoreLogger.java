@@ -9,14 +9,18 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Thread-safe logger for writing student exam scores to a CSV file
  * Uses synchronized methods to ensure thread safety during file operations
+ * Batch writes use a ReentrantLock instead so virtual threads are not pinned while waiting
  */
 public class ScoreLogger {
     private final String filePath;
     private final Object writeLock = new Object();
+    private final ReentrantLock fileLock = new ReentrantLock();
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public ScoreLogger(String filePath) {
@@ -52,23 +56,53 @@ public class ScoreLogger {
      */
     public synchronized void logScore(Student student) throws IOException {
         synchronized (writeLock) {
+            fileLock.lock();
             try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true))) {
                 String timestamp = LocalDateTime.now().format(dateFormatter);
                 String threadName = Thread.currentThread().getName();
-                String logEntry = String.format("%s,%s,%d,%s,%s,%s",
-                        student.getStudentId(),
-                        student.getStudentName(),
-                        student.getExamScore(),
-                        student.getSubject(),
-                        timestamp,
-                        threadName);
-                writer.write(logEntry);
+                writer.write(formatEntry(student, timestamp, threadName));
                 writer.newLine();
                 writer.flush();
+            } finally {
+                fileLock.unlock();
             }
         }
     }
 
+    /**
+     * Thread-safe method to log a batch of exam scores in one write
+     * Opens the file once per batch instead of once per score
+     * Guarded only by fileLock so callers on virtual threads can unmount while blocked
+     */
+    public int logScores(List<Student> students) throws IOException {
+        if (students.isEmpty()) {
+            return 0;
+        }
+        fileLock.lock();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true))) {
+            String timestamp = LocalDateTime.now().format(dateFormatter);
+            String threadName = Thread.currentThread().getName();
+            for (Student student : students) {
+                writer.write(formatEntry(student, timestamp, threadName));
+                writer.newLine();
+            }
+            writer.flush();
+        } finally {
+            fileLock.unlock();
+        }
+        return students.size();
+    }
+
+    private static String formatEntry(Student student, String timestamp, String threadName) {
+        return String.format("%s,%s,%d,%s,%s,%s",
+                student.getStudentId(),
+                student.getStudentName(),
+                student.getExamScore(),
+                student.getSubject(),
+                timestamp,
+                threadName);
+    }
+
     /**
      * Get the file path being used for logging
      */
@@ -81,8 +115,13 @@ public class ScoreLogger {
      */
     public synchronized int getEntryCount() throws IOException {
         synchronized (writeLock) {
-            long lineCount = Files.lines(Paths.get(filePath)).count();
-            return (int) lineCount - 1; // Subtract header line
+            fileLock.lock();
+            try {
+                long lineCount = Files.lines(Paths.get(filePath)).count();
+                return (int) lineCount - 1; // Subtract header line
+            } finally {
+                fileLock.unlock();
+            }
         }
     }
 
@@ -91,9 +130,12 @@ public class ScoreLogger {
      */
     public synchronized void clearLog() throws IOException {
         synchronized (writeLock) {
+            fileLock.lock();
             try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, false))) {
                 writer.write("StudentID,StudentName,ExamScore,Subject,Timestamp,ThreadName");
                 writer.newLine();
+            } finally {
+                fileLock.unlock();
             }
         }
     }
@@ -73,6 +73,35 @@ public class ScoreLoggerTest {
         assertEquals(3, count, "Should have exactly 3 entries after logging three scores");
     }
 
+    @Test
+    public void testLogScoresEmptyBatch() throws IOException {
+        int written = scoreLogger.logScores(new ArrayList<>());
+
+        assertEquals(0, written, "Empty batch should report 0 scores written");
+        assertEquals(0, scoreLogger.getEntryCount(), "Empty batch should not add any entries");
+    }
+
+    @Test
+    public void testLogScoresBatch() throws IOException {
+        scoreLogger.logScore(new Student("STU000", "Existing Student", 70, "Art"));
+
+        List<Student> batch = new ArrayList<>();
+        batch.add(new Student("STU001", "Alice Smith", 92, "Physics"));
+        batch.add(new Student("STU002", "Bob Johnson", 78, "Chemistry"));
+        batch.add(new Student("STU003", "Carol Williams", 88, "Biology"));
+
+        int written = scoreLogger.logScores(batch);
+
+        assertEquals(3, written, "Batch should report its size");
+        assertEquals(4, scoreLogger.getEntryCount(), "Batch should be appended after existing entries");
+
+        List<String> lines = Files.readAllLines(Path.of(testFilePath));
+        assertTrue(lines.get(0).startsWith("StudentID,StudentName,ExamScore"), "Header should be kept");
+        assertTrue(lines.get(1).startsWith("STU000,Existing Student,70,Art,"), "Existing entry should be kept");
+        assertTrue(lines.get(2).startsWith("STU001,Alice Smith,92,Physics,"), "Batch entries should keep their order");
+        assertTrue(lines.get(4).startsWith("STU003,Carol Williams,88,Biology,"), "Batch entries should keep their order");
+    }
+
     @Test
     public void testClearLog() throws IOException {
         Student student = new Student("STU001", "Test Student", 95, "English");